@@ -0,0 +1,127 @@
+package com.eteration.simplebanking;
+
+import com.eteration.simplebanking.controller.TransactionStatus;
+import com.eteration.simplebanking.model.Account;
+import com.eteration.simplebanking.model.BillPaymentTransaction;
+import com.eteration.simplebanking.model.DepositTransaction;
+import com.eteration.simplebanking.model.Transaction;
+import com.eteration.simplebanking.model.WithdrawalTransaction;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the streaming serializers of the posting and account responses with the default Jackson bean
+ * serialization. Run with ./gradlew jmh; the gc profiler reports the bytes allocated per response as gc.alloc.rate.norm.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @JsonSerialize(using = JsonSerializer.None.class)
+    private interface DefaultSerialization {
+    }
+
+    @State(Scope.Thread)
+    public static class Writers {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+
+        private ObjectWriter transactionStatusWriter;
+        private ObjectWriter accountWriter;
+        private ObjectWriter defaultTransactionStatusWriter;
+        private ObjectWriter defaultAccountWriter;
+
+        @Setup
+        public void setup() {
+            ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+            ObjectMapper defaultMapper = Jackson2ObjectMapperBuilder.json()
+                    .mixIn(TransactionStatus.class, DefaultSerialization.class)
+                    .mixIn(Account.class, DefaultSerialization.class)
+                    .mixIn(Transaction.class, DefaultSerialization.class)
+                    .build();
+            this.transactionStatusWriter = mapper.writerFor(TransactionStatus.class);
+            this.accountWriter = mapper.writerFor(Account.class);
+            this.defaultTransactionStatusWriter = defaultMapper.writerFor(TransactionStatus.class);
+            this.defaultAccountWriter = defaultMapper.writerFor(Account.class);
+        }
+
+        private int write(ObjectWriter writer, Object value) throws IOException {
+            this.out.reset();
+            writer.writeValue(this.out, value);
+            return this.out.size();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class TransactionStatusFixture {
+        private TransactionStatus transactionStatus;
+
+        @Setup
+        public void setup() {
+            this.transactionStatus = new TransactionStatus(UUID.randomUUID().toString());
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class AccountFixture {
+        @Param({"10", "100"})
+        private int transactionCount;
+
+        private Account account;
+
+        @Setup
+        public void setup() {
+            this.account = new Account("Nedim Kacan", "669-7788");
+            this.account.setCreateDate(LocalDateTime.now());
+            for (int i = 0; i < this.transactionCount; i++) {
+                Transaction transaction;
+                switch (i % 3) {
+                    case 0:
+                        transaction = new DepositTransaction(500);
+                        break;
+                    case 1:
+                        transaction = new WithdrawalTransaction(200);
+                        break;
+                    default:
+                        transaction = new BillPaymentTransaction("Vodafone", 100);
+                }
+                transaction.setDate(LocalDateTime.now());
+                transaction.setType(transaction.getClass().getSimpleName());
+                transaction.setApprovalCode(UUID.randomUUID().toString());
+                this.account.getTransactions().add(transaction);
+            }
+        }
+    }
+
+    @Benchmark
+    public int transactionStatusDefault(Writers writers, TransactionStatusFixture fixture) throws IOException {
+        return writers.write(writers.defaultTransactionStatusWriter, fixture.transactionStatus);
+    }
+
+    @Benchmark
+    public int transactionStatusStreaming(Writers writers, TransactionStatusFixture fixture) throws IOException {
+        return writers.write(writers.transactionStatusWriter, fixture.transactionStatus);
+    }
+
+    @Benchmark
+    public int accountDefault(Writers writers, AccountFixture fixture) throws IOException {
+        return writers.write(writers.defaultAccountWriter, fixture.account);
+    }
+
+    @Benchmark
+    public int accountStreaming(Writers writers, AccountFixture fixture) throws IOException {
+        return writers.write(writers.accountWriter, fixture.account);
+    }
+}
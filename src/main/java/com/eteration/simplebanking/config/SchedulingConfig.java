@@ -0,0 +1,34 @@
+package com.eteration.simplebanking.config;
+
+import com.eteration.simplebanking.scheduler.BillPaymentScheduler;
+import com.eteration.simplebanking.services.ScheduledBillPaymentService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    /**
+     * Bill payment scheduler with its own worker pool to execute the payments of different accounts in parallel.
+     * The pool is not registered as a bean of its own, since any Executor bean would replace Boot's applicationTaskExecutor.
+     *
+     * @param scheduledBillPaymentService The service executing the payments of one account.
+     * @param poolSize                    The number of accounts processed at the same time.
+     * @return The scheduler, which shuts the worker pool down when the context closes.
+     */
+    @Bean
+    public BillPaymentScheduler billPaymentScheduler(ScheduledBillPaymentService scheduledBillPaymentService,
+                                                     @Value("${bill-payment.scheduler.pool-size}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix("bill-payment-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return new BillPaymentScheduler(scheduledBillPaymentService, executor);
+    }
+}
@@ -3,10 +3,12 @@ package com.eteration.simplebanking.controller;
 import com.eteration.simplebanking.dto.AccountSaveDTO;
 import com.eteration.simplebanking.dto.AmountRequestDTO;
 import com.eteration.simplebanking.dto.BillPaymentDTO;
+import com.eteration.simplebanking.dto.ScheduledBillPaymentDTO;
 import com.eteration.simplebanking.exception.InsufficientBalanceException;
 import com.eteration.simplebanking.mapper.AccountMapper;
 import com.eteration.simplebanking.model.*;
 import com.eteration.simplebanking.services.AccountService;
+import com.eteration.simplebanking.services.ScheduledBillPaymentService;
 import com.eteration.simplebanking.services.TransactionService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +17,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+
 // This class is a place holder you can change the complete implementation
 @RestController
 @RequestMapping("/account/v1")
@@ -24,6 +28,7 @@ import org.springframework.web.bind.annotation.*;
 public class AccountController {
     private final AccountService service;
     private final TransactionService transactionService;
+    private final ScheduledBillPaymentService scheduledBillPaymentService;
 
     /**
      * REST service used to retrieve the information of an account with the specified account number.
@@ -95,6 +100,30 @@ public class AccountController {
         }
     }
 
+    /**
+     * Endpoint for scheduling a one-off or recurring bill payment from a specified account.
+     *
+     * @param accountNumber           The account number from which the bill payment will be made.
+     * @param scheduledBillPaymentDTO The request data containing the payee, amount, due date and recurrence of the payment.
+     * @return A ResponseEntity containing the stored payment with HttpStatus.CREATED.
+     * If the account is not found, it returns HttpStatus.NOT_FOUND. If the amount is not positive, the payee is missing or
+     * the due date is missing or in the past, it returns HttpStatus.BAD_REQUEST.
+     */
+    @PostMapping("/bill/schedule/{accountNumber}")
+    public ResponseEntity<ScheduledBillPaymentDTO> scheduleBillPayment(@PathVariable String accountNumber, @RequestBody ScheduledBillPaymentDTO scheduledBillPaymentDTO) {
+        log.info("REST to request scheduleBillPayment() accountNumber: {} and scheduledBillPaymentDTO: {}", accountNumber, scheduledBillPaymentDTO);
+        if (this.service.findAccount(accountNumber) == null) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        if (scheduledBillPaymentDTO.getAmount() <= 0
+                || scheduledBillPaymentDTO.getPayee() == null || scheduledBillPaymentDTO.getPayee().trim().isEmpty()
+                || scheduledBillPaymentDTO.getDueDate() == null || scheduledBillPaymentDTO.getDueDate().isBefore(LocalDate.now())) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        ScheduledBillPaymentDTO response = this.scheduledBillPaymentService.schedulePayment(accountNumber, scheduledBillPaymentDTO);
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
     /**
      * REST service used to create a new account or update an existing account.
      *
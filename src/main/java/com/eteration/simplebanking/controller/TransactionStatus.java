@@ -1,10 +1,13 @@
 package com.eteration.simplebanking.controller;
 
+import com.eteration.simplebanking.serializer.TransactionStatusSerializer;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.Getter;
 import lombok.Setter;
 
 @Getter
 @Setter
+@JsonSerialize(using = TransactionStatusSerializer.class)
 public class TransactionStatus {
     private String status;
     private String approvalCode;
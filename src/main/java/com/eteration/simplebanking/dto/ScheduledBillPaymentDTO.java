@@ -0,0 +1,23 @@
+package com.eteration.simplebanking.dto;
+
+import com.eteration.simplebanking.model.PaymentRecurrence;
+import com.eteration.simplebanking.model.ScheduledPaymentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduledBillPaymentDTO {
+    private Long id;
+    private double amount;
+    private String payee;
+    private LocalDate dueDate;
+    private PaymentRecurrence recurrence;
+    private ScheduledPaymentStatus status;
+}
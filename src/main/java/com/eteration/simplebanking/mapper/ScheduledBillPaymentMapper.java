@@ -0,0 +1,22 @@
+package com.eteration.simplebanking.mapper;
+
+import com.eteration.simplebanking.dto.ScheduledBillPaymentDTO;
+import com.eteration.simplebanking.model.ScheduledBillPayment;
+
+public class ScheduledBillPaymentMapper {
+    public static ScheduledBillPayment toEntity(String accountNumber, ScheduledBillPaymentDTO scheduledBillPaymentDTO) {
+        return new ScheduledBillPayment(accountNumber, scheduledBillPaymentDTO.getPayee(), scheduledBillPaymentDTO.getAmount(),
+                scheduledBillPaymentDTO.getDueDate(), scheduledBillPaymentDTO.getRecurrence());
+    }
+
+    public static ScheduledBillPaymentDTO toDTO(ScheduledBillPayment scheduledBillPayment) {
+        ScheduledBillPaymentDTO scheduledBillPaymentDTO = new ScheduledBillPaymentDTO();
+        scheduledBillPaymentDTO.setId(scheduledBillPayment.getId());
+        scheduledBillPaymentDTO.setAmount(scheduledBillPayment.getAmount());
+        scheduledBillPaymentDTO.setPayee(scheduledBillPayment.getPayee());
+        scheduledBillPaymentDTO.setDueDate(scheduledBillPayment.getDueDate());
+        scheduledBillPaymentDTO.setRecurrence(scheduledBillPayment.getRecurrence());
+        scheduledBillPaymentDTO.setStatus(scheduledBillPayment.getStatus());
+        return scheduledBillPaymentDTO;
+    }
+}
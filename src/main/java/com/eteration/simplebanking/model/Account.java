@@ -1,7 +1,9 @@
 package com.eteration.simplebanking.model;
 
 import com.eteration.simplebanking.exception.InsufficientBalanceException;
+import com.eteration.simplebanking.serializer.AccountSerializer;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -13,10 +15,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "account")
+@Table(name = "account", indexes = @Index(name = "idx_account_account_number", columnList = "account_number", unique = true))
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
+@JsonSerialize(using = AccountSerializer.class)
 public class Account {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
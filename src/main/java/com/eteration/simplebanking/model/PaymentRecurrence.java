@@ -0,0 +1,26 @@
+package com.eteration.simplebanking.model;
+
+import java.time.LocalDate;
+
+public enum PaymentRecurrence {
+    ONCE,
+    WEEKLY,
+    MONTHLY;
+
+    /**
+     * Calculates the due date following the given one for this recurrence.
+     *
+     * @param dueDate The due date of the payment that has just been executed.
+     * @return The next due date, or the same date for one-off payments.
+     */
+    public LocalDate next(LocalDate dueDate) {
+        switch (this) {
+            case WEEKLY:
+                return dueDate.plusWeeks(1);
+            case MONTHLY:
+                return dueDate.plusMonths(1);
+            default:
+                return dueDate;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.eteration.simplebanking.model;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "scheduled_bill_payment", indexes = @Index(name = "idx_scheduled_bill_payment_due", columnList = "status, id, due_date"))
+@NoArgsConstructor
+@Getter
+@Setter
+public class ScheduledBillPayment {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "account_number")
+    private String accountNumber;
+
+    @Column(name = "payee")
+    private String payee;
+
+    @Column(name = "amount")
+    private double amount;
+
+    @Column(name = "due_date")
+    private LocalDate dueDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "recurrence")
+    private PaymentRecurrence recurrence;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    private ScheduledPaymentStatus status;
+
+    @Column(name = "attempt_count")
+    private int attemptCount;
+
+    @Column(name = "missed_count")
+    private int missedCount;
+
+    @Column(name = "last_missed_due_date")
+    private LocalDate lastMissedDueDate;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    @Column(name = "approval_code")
+    private String approvalCode;
+
+    @CreationTimestamp
+    @Column(name = "create_date")
+    private LocalDateTime createDate;
+
+    public ScheduledBillPayment(String accountNumber, String payee, double amount, LocalDate dueDate, PaymentRecurrence recurrence) {
+        this.accountNumber = accountNumber;
+        this.payee = payee;
+        this.amount = amount;
+        this.dueDate = dueDate;
+        this.recurrence = recurrence == null ? PaymentRecurrence.ONCE : recurrence;
+        this.status = ScheduledPaymentStatus.PENDING;
+    }
+
+    /**
+     * Records a successful execution. One-off payments are completed, standing orders move on to their next due date.
+     *
+     * @param approvalCode The approval code of the bill payment transaction that was posted.
+     */
+    public void markExecuted(String approvalCode) {
+        this.approvalCode = approvalCode;
+        this.attemptCount = 0;
+        this.lastError = null;
+        if (this.recurrence == PaymentRecurrence.ONCE) {
+            this.status = ScheduledPaymentStatus.COMPLETED;
+        } else {
+            this.dueDate = this.recurrence.next(this.dueDate);
+            this.status = ScheduledPaymentStatus.PENDING;
+        }
+    }
+
+    /**
+     * Records a failed execution so that the payment is retried by a later scheduler run. Once maxAttempts is reached
+     * a one-off payment expires, while a standing order records the missed period and moves on to its next due date.
+     *
+     * @param reason      The reason of the failure.
+     * @param maxAttempts The number of failed attempts after which the current period is given up.
+     */
+    public void markFailed(String reason, int maxAttempts) {
+        this.attemptCount++;
+        this.lastError = reason;
+        if (this.attemptCount < maxAttempts) {
+            this.status = ScheduledPaymentStatus.FAILED;
+        } else if (this.recurrence == PaymentRecurrence.ONCE) {
+            this.status = ScheduledPaymentStatus.EXPIRED;
+        } else {
+            this.missedCount++;
+            this.lastMissedDueDate = this.dueDate;
+            this.dueDate = this.recurrence.next(this.dueDate);
+            this.attemptCount = 0;
+            this.status = ScheduledPaymentStatus.PENDING;
+        }
+    }
+
+    /**
+     * Cancels the payment for good, e.g. when its account no longer exists and retrying cannot succeed.
+     *
+     * @param reason The reason of the cancellation.
+     */
+    public void cancel(String reason) {
+        this.lastError = reason;
+        this.status = ScheduledPaymentStatus.CANCELLED;
+    }
+
+    /**
+     * Checks whether the payment may still be executed by a run for the given date.
+     *
+     * @param runDate The date up to which payments are due.
+     * @return true if the payment is pending or failed and due on or before runDate.
+     */
+    public boolean isExecutable(LocalDate runDate) {
+        return (this.status == ScheduledPaymentStatus.PENDING || this.status == ScheduledPaymentStatus.FAILED)
+                && !this.dueDate.isAfter(runDate);
+    }
+
+    @Override
+    public String toString() {
+        return "ScheduledBillPayment{" +
+                "id=" + id +
+                ", accountNumber='" + accountNumber + '\'' +
+                ", payee='" + payee + '\'' +
+                ", amount=" + amount +
+                ", dueDate=" + dueDate +
+                ", recurrence=" + recurrence +
+                ", status=" + status +
+                '}';
+    }
+}
@@ -0,0 +1,9 @@
+package com.eteration.simplebanking.model;
+
+public enum ScheduledPaymentStatus {
+    PENDING,
+    FAILED,
+    COMPLETED,
+    EXPIRED,
+    CANCELLED
+}
@@ -0,0 +1,22 @@
+package com.eteration.simplebanking.repository;
+
+import com.eteration.simplebanking.model.ScheduledBillPayment;
+import com.eteration.simplebanking.model.ScheduledPaymentStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ScheduledBillPaymentRepository extends JpaRepository<ScheduledBillPayment, Long> {
+    @Query("select p from ScheduledBillPayment p where p.status = :status and p.dueDate <= :dueDate " +
+            "and p.id > :lastId order by p.id")
+    List<ScheduledBillPayment> findDuePayments(@Param("status") ScheduledPaymentStatus status,
+                                               @Param("dueDate") LocalDate dueDate,
+                                               @Param("lastId") long lastId,
+                                               Pageable pageable);
+}
@@ -0,0 +1,97 @@
+package com.eteration.simplebanking.scheduler;
+
+import com.eteration.simplebanking.model.ScheduledBillPayment;
+import com.eteration.simplebanking.model.ScheduledPaymentStatus;
+import com.eteration.simplebanking.services.ScheduledBillPaymentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+
+@RequiredArgsConstructor
+@Slf4j
+public class BillPaymentScheduler implements DisposableBean {
+    private final ScheduledBillPaymentService scheduledBillPaymentService;
+    private final ThreadPoolTaskExecutor billPaymentExecutor;
+
+    @Value("${bill-payment.scheduler.batch-size}")
+    private int batchSize;
+
+    @Value("${bill-payment.scheduler.max-attempts}")
+    private int maxAttempts;
+
+    @Scheduled(cron = "${bill-payment.scheduler.cron}")
+    public void run() {
+        this.executeDuePayments(LocalDate.now());
+    }
+
+    /**
+     * Executes every payment due on or before the given date. Payments that failed on an earlier run are retried first,
+     * then the pending ones are executed, so that each pass reads a single status along the (status, id) index.
+     *
+     * @param dueDate The date up to which payments are due.
+     * @return The number of payments that were executed successfully.
+     */
+    public int executeDuePayments(LocalDate dueDate) {
+        log.info("Request to executeDuePayments() dueDate: {}", dueDate);
+        return this.executeDuePayments(ScheduledPaymentStatus.FAILED, dueDate) + this.executeDuePayments(ScheduledPaymentStatus.PENDING, dueDate);
+    }
+
+    /**
+     * Executes the due payments with the given status. Payments are read in id-ordered batches; within a batch the
+     * payments are grouped per account and each account is executed as one task on the worker pool, so different
+     * accounts run in parallel while the payments of one account stay serialized. A batch is finished before the next
+     * one is read, so an account never runs on two workers at the same time.
+     */
+    private int executeDuePayments(ScheduledPaymentStatus status, LocalDate dueDate) {
+        long lastId = 0;
+        int read = 0;
+        int executed = 0;
+        List<ScheduledBillPayment> batch;
+        do {
+            batch = this.scheduledBillPaymentService.findDuePayments(status, dueDate, lastId, this.batchSize);
+            if (batch.isEmpty()) {
+                break;
+            }
+            lastId = batch.get(batch.size() - 1).getId();
+            read += batch.size();
+            Map<String, List<Long>> paymentIdsByAccount = batch.stream()
+                    .collect(groupingBy(ScheduledBillPayment::getAccountNumber, LinkedHashMap::new, mapping(ScheduledBillPayment::getId, toList())));
+            List<CompletableFuture<Integer>> futures = paymentIdsByAccount.entrySet().stream()
+                    .map(entry -> CompletableFuture.supplyAsync(() -> this.executeAccountPayments(entry.getKey(), entry.getValue(), dueDate), this.billPaymentExecutor))
+                    .collect(toList());
+            for (CompletableFuture<Integer> future : futures) {
+                executed += future.join();
+            }
+        } while (batch.size() == this.batchSize);
+        log.info("Scheduled bill payments {} due {}: {} read, {} executed", status, dueDate, read, executed);
+        return executed;
+    }
+
+    @Override
+    public void destroy() {
+        this.billPaymentExecutor.shutdown();
+    }
+
+    private int executeAccountPayments(String accountNumber, List<Long> paymentIds, LocalDate dueDate) {
+        try {
+            return this.scheduledBillPaymentService.executeAccountPayments(accountNumber, paymentIds, dueDate, this.maxAttempts);
+        } catch (RuntimeException e) {
+            // The account's transaction was rolled back, its payments stay due and are picked up by the next run.
+            log.error("Scheduled bill payments of account {} could not be executed", accountNumber, e);
+            return 0;
+        }
+    }
+}
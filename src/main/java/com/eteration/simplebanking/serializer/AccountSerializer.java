@@ -0,0 +1,79 @@
+package com.eteration.simplebanking.serializer;
+
+import com.eteration.simplebanking.model.Account;
+import com.eteration.simplebanking.model.Transaction;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Writes the account summary and its transaction history straight to the generator, reading only the
+ * mapped fields instead of introspecting the entity. The create date and the transactions are written by the
+ * serializers the mapper resolves for them, so the output follows the same configuration as the default serialization.
+ */
+public class AccountSerializer extends StdSerializer<Account> implements ContextualSerializer {
+    private static final SerializedString OWNER = new SerializedString("owner");
+    private static final SerializedString ACCOUNT_NUMBER = new SerializedString("accountNumber");
+    private static final SerializedString BALANCE = new SerializedString("balance");
+    private static final SerializedString CREATE_DATE = new SerializedString("createDate");
+    private static final SerializedString TRANSACTIONS = new SerializedString("transactions");
+
+    private final JsonSerializer<Object> dateTimeSerializer;
+    private final JsonSerializer<Object> transactionSerializer;
+
+    public AccountSerializer() {
+        this(null, null);
+    }
+
+    private AccountSerializer(JsonSerializer<Object> dateTimeSerializer, JsonSerializer<Object> transactionSerializer) {
+        super(Account.class);
+        this.dateTimeSerializer = dateTimeSerializer;
+        this.transactionSerializer = transactionSerializer;
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+        return new AccountSerializer(provider.findValueSerializer(LocalDateTime.class, property),
+                provider.findValueSerializer(Transaction.class, property));
+    }
+
+    @Override
+    public void serialize(Account account, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(account);
+        gen.writeFieldName(OWNER);
+        gen.writeString(account.getOwner());
+        gen.writeFieldName(ACCOUNT_NUMBER);
+        gen.writeString(account.getAccountNumber());
+        gen.writeFieldName(BALANCE);
+        gen.writeNumber(account.getBalance());
+        gen.writeFieldName(CREATE_DATE);
+        TransactionSerializer.writeDateTime(this.dateTimeSerializer, account.getCreateDate(), gen, provider);
+        gen.writeFieldName(TRANSACTIONS);
+        List<Transaction> transactions = account.getTransactions();
+        if (transactions == null) {
+            gen.writeNull();
+        } else {
+            gen.writeStartArray(transactions, transactions.size());
+            for (Transaction transaction : transactions) {
+                if (transaction == null) {
+                    provider.defaultSerializeNull(gen);
+                } else if (this.transactionSerializer == null) {
+                    provider.defaultSerializeValue(transaction, gen);
+                } else {
+                    this.transactionSerializer.serialize(transaction, gen, provider);
+                }
+            }
+            gen.writeEndArray();
+        }
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,75 @@
+package com.eteration.simplebanking.serializer;
+
+import com.eteration.simplebanking.model.BillPaymentTransaction;
+import com.eteration.simplebanking.model.Transaction;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Writes a Transaction of the account history straight to the generator. The id and account are left out
+ * just like the JsonIgnore annotations do for the default serialization, and the date is written by the
+ * LocalDateTime serializer of the mapper, so its date configuration still applies.
+ * <p>
+ * Fields of the subclasses are written explicitly: a field added to a Transaction subclass must be added here
+ * as well, otherwise it is missing from the account history (SerializationTest compares every subclass).
+ */
+public class TransactionSerializer extends StdSerializer<Transaction> implements ContextualSerializer {
+    private static final SerializedString AMOUNT = new SerializedString("amount");
+    private static final SerializedString DATE = new SerializedString("date");
+    private static final SerializedString TYPE = new SerializedString("type");
+    private static final SerializedString APPROVAL_CODE = new SerializedString("approvalCode");
+    private static final SerializedString PAYEE = new SerializedString("payee");
+
+    private final JsonSerializer<Object> dateTimeSerializer;
+
+    public TransactionSerializer() {
+        this(null);
+    }
+
+    private TransactionSerializer(JsonSerializer<Object> dateTimeSerializer) {
+        super(Transaction.class);
+        this.dateTimeSerializer = dateTimeSerializer;
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+        return new TransactionSerializer(provider.findValueSerializer(LocalDateTime.class, property));
+    }
+
+    @Override
+    public void serialize(Transaction transaction, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(transaction);
+        gen.writeFieldName(AMOUNT);
+        gen.writeNumber(transaction.getAmount());
+        gen.writeFieldName(DATE);
+        writeDateTime(this.dateTimeSerializer, transaction.getDate(), gen, provider);
+        gen.writeFieldName(TYPE);
+        gen.writeString(transaction.getType());
+        gen.writeFieldName(APPROVAL_CODE);
+        gen.writeString(transaction.getApprovalCode());
+        if (transaction instanceof BillPaymentTransaction) {
+            gen.writeFieldName(PAYEE);
+            gen.writeString(((BillPaymentTransaction) transaction).getPayee());
+        }
+        gen.writeEndObject();
+    }
+
+    static void writeDateTime(JsonSerializer<Object> dateTimeSerializer, LocalDateTime dateTime, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (dateTime == null) {
+            provider.defaultSerializeNull(gen);
+        } else if (dateTimeSerializer == null) {
+            provider.defaultSerializeValue(dateTime, gen);
+        } else {
+            dateTimeSerializer.serialize(dateTime, gen, provider);
+        }
+    }
+}
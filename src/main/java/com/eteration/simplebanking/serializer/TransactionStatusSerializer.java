@@ -0,0 +1,32 @@
+package com.eteration.simplebanking.serializer;
+
+import com.eteration.simplebanking.controller.TransactionStatus;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Writes a TransactionStatus straight to the generator instead of going through bean introspection.
+ * The output is identical to the default Jackson serialization.
+ */
+public class TransactionStatusSerializer extends StdSerializer<TransactionStatus> {
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString APPROVAL_CODE = new SerializedString("approvalCode");
+
+    public TransactionStatusSerializer() {
+        super(TransactionStatus.class);
+    }
+
+    @Override
+    public void serialize(TransactionStatus transactionStatus, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(transactionStatus);
+        gen.writeFieldName(STATUS);
+        gen.writeString(transactionStatus.getStatus());
+        gen.writeFieldName(APPROVAL_CODE);
+        gen.writeString(transactionStatus.getApprovalCode());
+        gen.writeEndObject();
+    }
+}
@@ -29,6 +29,17 @@ public class AccountService {
         return this.accountRepository.findByAccountNumber(accountNumber);
     }
 
+    /**
+     * Method used to find an account with the specified account number and lock it until the current transaction ends.
+     *
+     * @param accountNumber The account number of the account to be found.
+     * @return An object representing the locked account with the given account number or null (if the account is not found).
+     */
+    public Account findAccountForUpdate(String accountNumber) {
+        log.debug("Request to findAccountForUpdate() accountNumber: {}", accountNumber);
+        return this.accountRepository.findForUpdateByAccountNumber(accountNumber);
+    }
+
     /**
      * Method used to create a new account.
      *
@@ -0,0 +1,98 @@
+package com.eteration.simplebanking.services;
+
+import com.eteration.simplebanking.controller.TransactionStatus;
+import com.eteration.simplebanking.dto.ScheduledBillPaymentDTO;
+import com.eteration.simplebanking.exception.InsufficientBalanceException;
+import com.eteration.simplebanking.mapper.ScheduledBillPaymentMapper;
+import com.eteration.simplebanking.model.Account;
+import com.eteration.simplebanking.model.BillPaymentTransaction;
+import com.eteration.simplebanking.model.ScheduledBillPayment;
+import com.eteration.simplebanking.model.ScheduledPaymentStatus;
+import com.eteration.simplebanking.repository.ScheduledBillPaymentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class ScheduledBillPaymentService {
+    private final TransactionService transactionService;
+    private final AccountService accountService;
+    private final ScheduledBillPaymentRepository scheduledBillPaymentRepository;
+
+    /**
+     * Stores a bill payment to be executed by the scheduler on its due date.
+     *
+     * @param accountNumber           The account number from which the bill payment will be made.
+     * @param scheduledBillPaymentDTO The request data containing the payee, amount, due date and recurrence of the payment.
+     * @return A DTO (Data Transfer Object) containing the information of the stored payment.
+     */
+    public ScheduledBillPaymentDTO schedulePayment(String accountNumber, ScheduledBillPaymentDTO scheduledBillPaymentDTO) {
+        log.info("Request to schedulePayment() accountNumber: {} and scheduledBillPaymentDTO: {}", accountNumber, scheduledBillPaymentDTO);
+        ScheduledBillPayment payment = ScheduledBillPaymentMapper.toEntity(accountNumber, scheduledBillPaymentDTO);
+        return ScheduledBillPaymentMapper.toDTO(this.scheduledBillPaymentRepository.save(payment));
+    }
+
+    /**
+     * Reads the next batch of payments with the given status that are due, ordered by id so that callers can page
+     * through them by the last seen id.
+     *
+     * @param status    The status of the payments to read, PENDING or FAILED.
+     * @param dueDate   The date up to which payments are due.
+     * @param lastId    The highest payment id of the previous batch, 0 for the first batch.
+     * @param batchSize The maximum number of payments to read.
+     * @return The due payments with an id greater than lastId.
+     */
+    @Transactional(readOnly = true)
+    public List<ScheduledBillPayment> findDuePayments(ScheduledPaymentStatus status, LocalDate dueDate, long lastId, int batchSize) {
+        return this.scheduledBillPaymentRepository.findDuePayments(status, dueDate, lastId, PageRequest.of(0, batchSize));
+    }
+
+    /**
+     * Executes the given due payments of a single account in one transaction. The account row is locked for the duration
+     * of the transaction, the same lock taken by TransactionService.saveTransaction, so these payments are serialized
+     * with the interactive postings to the account. Each payment is checked again under the lock so that a payment
+     * already executed by an overlapping run is not charged twice.
+     *
+     * @param accountNumber The account number from which the payments are made.
+     * @param paymentIds    The ids of the due payments belonging to the account.
+     * @param runDate       The date up to which payments are due.
+     * @param maxAttempts   The number of failed attempts after which the current period of a payment is given up.
+     * @return The number of payments that were executed successfully.
+     */
+    public int executeAccountPayments(String accountNumber, List<Long> paymentIds, LocalDate runDate, int maxAttempts) {
+        Account account = this.accountService.findAccountForUpdate(accountNumber);
+        List<ScheduledBillPayment> payments = this.scheduledBillPaymentRepository.findAllById(paymentIds).stream()
+                .sorted(Comparator.comparing(ScheduledBillPayment::getDueDate).thenComparing(ScheduledBillPayment::getId))
+                .collect(Collectors.toList());
+        int executed = 0;
+        for (ScheduledBillPayment payment : payments) {
+            if (!payment.isExecutable(runDate)) {
+                continue;
+            }
+            if (account == null) {
+                log.warn("Scheduled bill payment {} cancelled: account {} not found", payment.getId(), accountNumber);
+                payment.cancel("Account not found.");
+                continue;
+            }
+            try {
+                TransactionStatus transactionStatus = this.transactionService.postTransaction(account, new BillPaymentTransaction(payment.getPayee(), payment.getAmount()));
+                payment.markExecuted(transactionStatus.getApprovalCode());
+                executed++;
+            } catch (InsufficientBalanceException e) {
+                log.warn("Scheduled bill payment {} failed: {}", payment.getId(), e.getMessage());
+                payment.markFailed(e.getMessage(), maxAttempts);
+            }
+        }
+        return executed;
+    }
+}
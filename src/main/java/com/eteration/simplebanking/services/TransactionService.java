@@ -22,7 +22,8 @@ public class TransactionService {
     private final TransactionRepository transactionRepository;
 
     /**
-     * Saves a transaction associated with a specific account.
+     * Saves a transaction associated with a specific account. The account row is locked until the transaction ends,
+     * so concurrent postings to the same account, including scheduled bill payments, are applied one after another.
      *
      * @param accountNumber The account number to which the transaction is linked.
      * @param transaction   The transaction object representing the financial transaction.
@@ -31,7 +32,20 @@ public class TransactionService {
      */
     public TransactionStatus saveTransaction(String accountNumber, Transaction transaction) throws InsufficientBalanceException {
         log.info("Request to saveTransaction() accountNumber: {} and Transaction: {}", accountNumber, transaction.getClass().getSimpleName());
-        Account account = this.accountService.findAccount(accountNumber);
+        return this.postTransaction(this.accountService.findAccountForUpdate(accountNumber), transaction);
+    }
+
+    /**
+     * Posts a transaction to an already loaded account. The account must have been locked with
+     * AccountService.findAccountForUpdate in the current transaction, which is why this method is only visible to
+     * the services of this package.
+     *
+     * @param account     The account to which the transaction is linked, may be null if it could not be found.
+     * @param transaction The transaction object representing the financial transaction.
+     * @return A TransactionStatus object indicating the result of the transaction, including an approval code.
+     * @throws InsufficientBalanceException if the account is missing or has insufficient balance to complete the transaction.
+     */
+    TransactionStatus postTransaction(Account account, Transaction transaction) throws InsufficientBalanceException {
         if (account != null && transaction.getAmount() > 0) {
             transaction.setDate(LocalDateTime.now());
             transaction.setType(transaction.getClass().getSimpleName());
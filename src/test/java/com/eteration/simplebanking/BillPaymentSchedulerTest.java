@@ -0,0 +1,95 @@
+package com.eteration.simplebanking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.eteration.simplebanking.model.PaymentRecurrence;
+import com.eteration.simplebanking.model.ScheduledBillPayment;
+import com.eteration.simplebanking.model.ScheduledPaymentStatus;
+import com.eteration.simplebanking.scheduler.BillPaymentScheduler;
+import com.eteration.simplebanking.services.ScheduledBillPaymentService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class BillPaymentSchedulerTest {
+
+    private static final LocalDate RUN_DATE = LocalDate.of(2023, 11, 1);
+
+    private ScheduledBillPaymentService service;
+    private ThreadPoolTaskExecutor executor;
+    private BillPaymentScheduler scheduler;
+
+    @BeforeEach
+    public void setUp() {
+        service = mock(ScheduledBillPaymentService.class);
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.initialize();
+        scheduler = new BillPaymentScheduler(service, executor);
+        ReflectionTestUtils.setField(scheduler, "batchSize", 2);
+        ReflectionTestUtils.setField(scheduler, "maxAttempts", 3);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void givenDuePayments_ExecuteDuePayments_thenGroupedPerAccountAndPagedById() {
+        when(service.findDuePayments(eq(ScheduledPaymentStatus.FAILED), eq(RUN_DATE), anyLong(), eq(2)))
+                .thenReturn(Collections.emptyList());
+        when(service.findDuePayments(ScheduledPaymentStatus.PENDING, RUN_DATE, 0L, 2))
+                .thenReturn(Arrays.asList(payment(1L, "A"), payment(2L, "B")));
+        when(service.findDuePayments(ScheduledPaymentStatus.PENDING, RUN_DATE, 2L, 2))
+                .thenReturn(Arrays.asList(payment(3L, "A")));
+        when(service.executeAccountPayments(anyString(), anyList(), eq(RUN_DATE), eq(3)))
+                .thenAnswer(invocation -> ((List<?>) invocation.getArgument(1)).size());
+
+        int executed = scheduler.executeDuePayments(RUN_DATE);
+
+        assertEquals(3, executed);
+        verify(service, times(1)).findDuePayments(ScheduledPaymentStatus.FAILED, RUN_DATE, 0L, 2);
+        verify(service, times(1)).findDuePayments(ScheduledPaymentStatus.PENDING, RUN_DATE, 0L, 2);
+        verify(service, times(1)).findDuePayments(ScheduledPaymentStatus.PENDING, RUN_DATE, 2L, 2);
+        verify(service, times(1)).executeAccountPayments("A", Arrays.asList(1L), RUN_DATE, 3);
+        verify(service, times(1)).executeAccountPayments("B", Arrays.asList(2L), RUN_DATE, 3);
+        verify(service, times(1)).executeAccountPayments("A", Arrays.asList(3L), RUN_DATE, 3);
+    }
+
+    @Test
+    public void givenAccountFailure_ExecuteDuePayments_thenOtherAccountsExecuted() {
+        when(service.findDuePayments(eq(ScheduledPaymentStatus.FAILED), eq(RUN_DATE), anyLong(), eq(2)))
+                .thenReturn(Collections.emptyList());
+        when(service.findDuePayments(ScheduledPaymentStatus.PENDING, RUN_DATE, 0L, 2))
+                .thenReturn(Arrays.asList(payment(1L, "A"), payment(2L, "B")));
+        when(service.findDuePayments(ScheduledPaymentStatus.PENDING, RUN_DATE, 2L, 2))
+                .thenReturn(Collections.emptyList());
+        when(service.executeAccountPayments("A", Arrays.asList(1L), RUN_DATE, 3)).thenThrow(new IllegalStateException("Database error"));
+        when(service.executeAccountPayments("B", Arrays.asList(2L), RUN_DATE, 3)).thenReturn(1);
+
+        assertEquals(1, scheduler.executeDuePayments(RUN_DATE));
+    }
+
+    private static ScheduledBillPayment payment(Long id, String accountNumber) {
+        ScheduledBillPayment payment = new ScheduledBillPayment(accountNumber, "Vodafone", 100, RUN_DATE, PaymentRecurrence.MONTHLY);
+        payment.setId(id);
+        return payment;
+    }
+}
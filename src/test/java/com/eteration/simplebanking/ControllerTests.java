@@ -1,39 +1,60 @@
 package com.eteration.simplebanking;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.eteration.simplebanking.controller.AccountController;
 import com.eteration.simplebanking.controller.TransactionStatus;
 import com.eteration.simplebanking.dto.AmountRequestDTO;
+import com.eteration.simplebanking.dto.ScheduledBillPaymentDTO;
 import com.eteration.simplebanking.model.Account;
+import com.eteration.simplebanking.model.PaymentRecurrence;
+import com.eteration.simplebanking.model.ScheduledPaymentStatus;
 import com.eteration.simplebanking.exception.InsufficientBalanceException;
+import com.eteration.simplebanking.repository.TransactionRepository;
 import com.eteration.simplebanking.services.AccountService;
+import com.eteration.simplebanking.services.ScheduledBillPaymentService;
+import com.eteration.simplebanking.services.TransactionService;
 
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Spy;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ContextConfiguration;
 
+import java.time.LocalDate;
+
 @SpringBootTest
 @ContextConfiguration
 @AutoConfigureMockMvc
 class ControllerTests {
 
-    @Spy
-    @InjectMocks
     private AccountController controller;
 
     @Mock
     private AccountService service;
 
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private ScheduledBillPaymentService scheduledBillPaymentService;
+
+    @BeforeEach
+    public void setUp() {
+        // Postings go through the real TransactionService, which loads the account with findAccountForUpdate.
+        controller = spy(new AccountController(service, new TransactionService(service, transactionRepository), scheduledBillPaymentService));
+    }
 
     @Test
     public void givenId_Credit_thenReturnJson()
@@ -41,9 +62,9 @@ class ControllerTests {
 
         Account account = new Account("Kerem Karaca", "17892");
 
-        doReturn(account).when(service).findAccount("17892");
+        doReturn(account).when(service).findAccountForUpdate("17892");
         ResponseEntity<TransactionStatus> result = controller.credit("17892", new AmountRequestDTO(1000.0));
-        verify(service, times(1)).findAccount("17892");
+        verify(service, times(1)).findAccountForUpdate("17892");
         assertEquals("OK", result.getBody().getStatus());
     }
 
@@ -53,10 +74,10 @@ class ControllerTests {
 
         Account account = new Account("Kerem Karaca", "17892");
 
-        doReturn(account).when(service).findAccount("17892");
+        doReturn(account).when(service).findAccountForUpdate("17892");
         ResponseEntity<TransactionStatus> result = controller.credit("17892", new AmountRequestDTO(1000.0));
         ResponseEntity<TransactionStatus> result2 = controller.debit("17892", new AmountRequestDTO(50.0));
-        verify(service, times(2)).findAccount("17892");
+        verify(service, times(2)).findAccountForUpdate("17892");
         assertEquals("OK", result.getBody().getStatus());
         assertEquals("OK", result2.getBody().getStatus());
         assertEquals(950.0, account.getBalance(), 0.001);
@@ -68,11 +89,11 @@ class ControllerTests {
         Assertions.assertThrows(InsufficientBalanceException.class, () -> {
             Account account = new Account("Kerem Karaca", "17892");
 
-            doReturn(account).when(service).findAccount("17892");
+            doReturn(account).when(service).findAccountForUpdate("17892");
             ResponseEntity<TransactionStatus> result = controller.credit("17892", new AmountRequestDTO(1000.0));
             assertEquals("OK", result.getBody().getStatus());
             assertEquals(1000.0, account.getBalance(), 0.001);
-            verify(service, times(1)).findAccount("17892");
+            verify(service, times(1)).findAccountForUpdate("17892");
 
             ResponseEntity<TransactionStatus> result2 = controller.debit("17892", new AmountRequestDTO(5000.0));
         });
@@ -90,4 +111,46 @@ class ControllerTests {
         assertEquals(account, result.getBody());
     }
 
+    @Test
+    public void givenUnknownId_ScheduleBillPayment_thenNotFound()
+            throws Exception {
+
+        ScheduledBillPaymentDTO request = new ScheduledBillPaymentDTO(null, 100, "Vodafone", LocalDate.now().plusDays(1), PaymentRecurrence.MONTHLY, null);
+        ResponseEntity<ScheduledBillPaymentDTO> result = controller.scheduleBillPayment("17892", request);
+        assertEquals(HttpStatus.NOT_FOUND, result.getStatusCode());
+        verify(scheduledBillPaymentService, never()).schedulePayment(any(), any());
+    }
+
+    @Test
+    public void givenInvalidRequest_ScheduleBillPayment_thenBadRequest()
+            throws Exception {
+
+        Account account = new Account("Kerem Karaca", "17892");
+
+        doReturn(account).when(service).findAccount("17892");
+        ScheduledBillPaymentDTO pastDueDate = new ScheduledBillPaymentDTO(null, 100, "Vodafone", LocalDate.now().minusDays(1), PaymentRecurrence.ONCE, null);
+        ScheduledBillPaymentDTO missingPayee = new ScheduledBillPaymentDTO(null, 100, null, LocalDate.now().plusDays(1), PaymentRecurrence.ONCE, null);
+        ScheduledBillPaymentDTO negativeAmount = new ScheduledBillPaymentDTO(null, -100, "Vodafone", LocalDate.now().plusDays(1), PaymentRecurrence.ONCE, null);
+        assertEquals(HttpStatus.BAD_REQUEST, controller.scheduleBillPayment("17892", pastDueDate).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, controller.scheduleBillPayment("17892", missingPayee).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, controller.scheduleBillPayment("17892", negativeAmount).getStatusCode());
+        verify(scheduledBillPaymentService, never()).schedulePayment(any(), any());
+    }
+
+    @Test
+    public void givenId_ScheduleBillPayment_thenCreated()
+            throws Exception {
+
+        Account account = new Account("Kerem Karaca", "17892");
+        ScheduledBillPaymentDTO request = new ScheduledBillPaymentDTO(null, 100, "Vodafone", LocalDate.now(), PaymentRecurrence.MONTHLY, null);
+        ScheduledBillPaymentDTO stored = new ScheduledBillPaymentDTO(1L, 100, "Vodafone", LocalDate.now(), PaymentRecurrence.MONTHLY, ScheduledPaymentStatus.PENDING);
+
+        doReturn(account).when(service).findAccount("17892");
+        doReturn(stored).when(scheduledBillPaymentService).schedulePayment(eq("17892"), any());
+        ResponseEntity<ScheduledBillPaymentDTO> result = controller.scheduleBillPayment("17892", request);
+        verify(scheduledBillPaymentService, times(1)).schedulePayment("17892", request);
+        assertEquals(HttpStatus.CREATED, result.getStatusCode());
+        assertEquals(stored, result.getBody());
+    }
+
 }
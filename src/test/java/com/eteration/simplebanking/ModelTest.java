@@ -5,12 +5,17 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.eteration.simplebanking.model.Account;
 import com.eteration.simplebanking.model.DepositTransaction;
+import com.eteration.simplebanking.model.PaymentRecurrence;
+import com.eteration.simplebanking.model.ScheduledBillPayment;
+import com.eteration.simplebanking.model.ScheduledPaymentStatus;
 import com.eteration.simplebanking.exception.InsufficientBalanceException;
 import com.eteration.simplebanking.model.WithdrawalTransaction;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDate;
+
 public class ModelTest {
 
     @Test
@@ -67,4 +72,43 @@ public class ModelTest {
         assertTrue(account.getBalance() == 40);
         assertTrue(account.getTransactions().size() == 2);
     }
+
+    @Test
+    public void testScheduledBillPaymentOnce() {
+        ScheduledBillPayment payment = new ScheduledBillPayment("1234", "Vodafone", 100, LocalDate.of(2023, 11, 1), PaymentRecurrence.ONCE);
+        assertTrue(payment.getStatus() == ScheduledPaymentStatus.PENDING);
+        payment.markExecuted("approval");
+        assertTrue(payment.getStatus() == ScheduledPaymentStatus.COMPLETED);
+        assertTrue(payment.getDueDate().equals(LocalDate.of(2023, 11, 1)));
+    }
+
+    @Test
+    public void testScheduledBillPaymentStandingOrder() {
+        ScheduledBillPayment payment = new ScheduledBillPayment("1234", "Vodafone", 100, LocalDate.of(2023, 11, 1), PaymentRecurrence.MONTHLY);
+        payment.markFailed("Insufficient funds.", 3);
+        assertTrue(payment.getStatus() == ScheduledPaymentStatus.FAILED);
+        assertTrue(payment.getAttemptCount() == 1);
+
+        payment.markExecuted("approval");
+        assertTrue(payment.getStatus() == ScheduledPaymentStatus.PENDING);
+        assertTrue(payment.getAttemptCount() == 0);
+        assertTrue(payment.getDueDate().equals(LocalDate.of(2023, 12, 1)));
+    }
+
+    @Test
+    public void testScheduledBillPaymentRetriesExhausted() {
+        ScheduledBillPayment once = new ScheduledBillPayment("1234", "Vodafone", 100, LocalDate.of(2023, 11, 1), PaymentRecurrence.ONCE);
+        once.markFailed("Insufficient funds.", 2);
+        once.markFailed("Insufficient funds.", 2);
+        assertTrue(once.getStatus() == ScheduledPaymentStatus.EXPIRED);
+
+        ScheduledBillPayment standingOrder = new ScheduledBillPayment("1234", "Vodafone", 100, LocalDate.of(2023, 11, 1), PaymentRecurrence.MONTHLY);
+        standingOrder.markFailed("Insufficient funds.", 2);
+        standingOrder.markFailed("Insufficient funds.", 2);
+        assertTrue(standingOrder.getStatus() == ScheduledPaymentStatus.PENDING);
+        assertTrue(standingOrder.getAttemptCount() == 0);
+        assertTrue(standingOrder.getMissedCount() == 1);
+        assertTrue(standingOrder.getLastMissedDueDate().equals(LocalDate.of(2023, 11, 1)));
+        assertTrue(standingOrder.getDueDate().equals(LocalDate.of(2023, 12, 1)));
+    }
 }
@@ -0,0 +1,91 @@
+package com.eteration.simplebanking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.eteration.simplebanking.model.Account;
+import com.eteration.simplebanking.model.PaymentRecurrence;
+import com.eteration.simplebanking.model.ScheduledBillPayment;
+import com.eteration.simplebanking.model.ScheduledPaymentStatus;
+import com.eteration.simplebanking.repository.ScheduledBillPaymentRepository;
+import com.eteration.simplebanking.repository.TransactionRepository;
+import com.eteration.simplebanking.services.AccountService;
+import com.eteration.simplebanking.services.ScheduledBillPaymentService;
+import com.eteration.simplebanking.services.TransactionService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+public class ScheduledBillPaymentServiceTest {
+
+    private static final LocalDate RUN_DATE = LocalDate.of(2023, 11, 1);
+
+    private AccountService accountService;
+    private TransactionRepository transactionRepository;
+    private ScheduledBillPaymentRepository scheduledBillPaymentRepository;
+    private ScheduledBillPaymentService service;
+
+    @BeforeEach
+    public void setUp() {
+        accountService = mock(AccountService.class);
+        transactionRepository = mock(TransactionRepository.class);
+        scheduledBillPaymentRepository = mock(ScheduledBillPaymentRepository.class);
+        TransactionService transactionService = new TransactionService(accountService, transactionRepository);
+        service = new ScheduledBillPaymentService(transactionService, accountService, scheduledBillPaymentRepository);
+    }
+
+    @Test
+    public void givenDuePayments_ExecuteAccountPayments_thenFailedOnInsufficientBalance() {
+        Account account = new Account("Kerem Karaca", "17892");
+        account.deposit(150);
+        ScheduledBillPayment first = payment(1L, 100, RUN_DATE, ScheduledPaymentStatus.PENDING);
+        ScheduledBillPayment second = payment(2L, 100, RUN_DATE, ScheduledPaymentStatus.FAILED);
+        ScheduledBillPayment notDue = payment(3L, 10, RUN_DATE.plusDays(1), ScheduledPaymentStatus.PENDING);
+        ScheduledBillPayment completed = payment(4L, 10, RUN_DATE, ScheduledPaymentStatus.COMPLETED);
+        List<Long> ids = Arrays.asList(1L, 2L, 3L, 4L);
+
+        doReturn(account).when(accountService).findAccountForUpdate("17892");
+        doReturn(Arrays.asList(completed, notDue, second, first)).when(scheduledBillPaymentRepository).findAllById(ids);
+        int executed = service.executeAccountPayments("17892", ids, RUN_DATE, 3);
+
+        assertEquals(1, executed);
+        assertEquals(50.0, account.getBalance(), 0.001);
+        assertEquals(ScheduledPaymentStatus.COMPLETED, first.getStatus());
+        assertEquals(ScheduledPaymentStatus.FAILED, second.getStatus());
+        assertEquals(1, second.getAttemptCount());
+        assertEquals("Insufficient funds.", second.getLastError());
+        assertEquals(ScheduledPaymentStatus.PENDING, notDue.getStatus());
+        assertEquals(ScheduledPaymentStatus.COMPLETED, completed.getStatus());
+        verify(transactionRepository, times(1)).save(any());
+    }
+
+    @Test
+    public void givenMissingAccount_ExecuteAccountPayments_thenCancelled() {
+        ScheduledBillPayment payment = payment(1L, 100, RUN_DATE, ScheduledPaymentStatus.PENDING);
+        List<Long> ids = Arrays.asList(1L);
+
+        doReturn(Arrays.asList(payment)).when(scheduledBillPaymentRepository).findAllById(ids);
+        int executed = service.executeAccountPayments("17892", ids, RUN_DATE, 3);
+
+        assertEquals(0, executed);
+        assertEquals(ScheduledPaymentStatus.CANCELLED, payment.getStatus());
+        assertEquals(0, payment.getAttemptCount());
+        verify(transactionRepository, never()).save(any());
+    }
+
+    private static ScheduledBillPayment payment(Long id, double amount, LocalDate dueDate, ScheduledPaymentStatus status) {
+        ScheduledBillPayment payment = new ScheduledBillPayment("17892", "Vodafone", amount, dueDate, PaymentRecurrence.ONCE);
+        payment.setId(id);
+        payment.setStatus(status);
+        return payment;
+    }
+}
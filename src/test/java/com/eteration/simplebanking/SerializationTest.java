@@ -0,0 +1,96 @@
+package com.eteration.simplebanking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.eteration.simplebanking.controller.TransactionStatus;
+import com.eteration.simplebanking.model.Account;
+import com.eteration.simplebanking.model.BillPaymentTransaction;
+import com.eteration.simplebanking.model.DepositTransaction;
+import com.eteration.simplebanking.model.Transaction;
+import com.eteration.simplebanking.model.WithdrawalTransaction;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+public class SerializationTest {
+
+    // Removes the custom serializers so that the default bean serialization can be compared against them.
+    @JsonSerialize(using = JsonSerializer.None.class)
+    private interface DefaultSerialization {
+    }
+
+    private final ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private final ObjectMapper defaultMapper = defaultSerialization(Jackson2ObjectMapperBuilder.json()).build();
+
+    @Test
+    public void testTransactionStatusMatchesDefault() throws Exception {
+        TransactionStatus transactionStatus = new TransactionStatus("b86418e5-18d7-4b47-9c57-7e41cc06d341");
+        assertEquals(defaultMapper.writeValueAsString(transactionStatus), mapper.writeValueAsString(transactionStatus));
+    }
+
+    @Test
+    public void testAccountMatchesDefault() throws Exception {
+        Account account = account();
+        assertEquals(defaultMapper.writeValueAsString(account), mapper.writeValueAsString(account));
+    }
+
+    @Test
+    public void testAccountMatchesDefaultWithDatesAsTimestamps() throws Exception {
+        ObjectMapper timestampMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+        ObjectMapper defaultTimestampMapper = defaultSerialization(Jackson2ObjectMapperBuilder.json())
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+        Account account = account();
+        assertEquals(defaultTimestampMapper.writeValueAsString(account), timestampMapper.writeValueAsString(account));
+    }
+
+    @Test
+    public void testEveryTransactionSubclassMatchesDefault() throws Exception {
+        // Fields added to a subclass but not to TransactionSerializer show up here as a difference.
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AssignableTypeFilter(Transaction.class));
+        Set<BeanDefinition> subclasses = scanner.findCandidateComponents(Transaction.class.getPackage().getName());
+        assertFalse(subclasses.isEmpty());
+        for (BeanDefinition subclass : subclasses) {
+            Transaction transaction = (Transaction) Class.forName(subclass.getBeanClassName()).getDeclaredConstructor().newInstance();
+            transaction(transaction, LocalDateTime.of(2023, 10, 24, 3, 15, 59));
+            transaction.setAmount(100);
+            assertEquals(defaultMapper.writeValueAsString(transaction), mapper.writeValueAsString(transaction), subclass.getBeanClassName());
+        }
+    }
+
+    private static Jackson2ObjectMapperBuilder defaultSerialization(Jackson2ObjectMapperBuilder builder) {
+        return builder
+                .mixIn(TransactionStatus.class, DefaultSerialization.class)
+                .mixIn(Account.class, DefaultSerialization.class)
+                .mixIn(Transaction.class, DefaultSerialization.class);
+    }
+
+    private static Account account() {
+        Account account = new Account("Canan Kaya", "1234");
+        account.setCreateDate(LocalDateTime.of(2023, 10, 24, 3, 15, 0));
+        account.getTransactions().add(transaction(new DepositTransaction(500), LocalDateTime.of(2023, 10, 24, 3, 15, 47, 557589000)));
+        account.getTransactions().add(transaction(new WithdrawalTransaction(200), LocalDateTime.of(2023, 10, 24, 3, 15, 59)));
+        account.getTransactions().add(transaction(new BillPaymentTransaction("Vodafone", 100), null));
+        return account;
+    }
+
+    private static Transaction transaction(Transaction transaction, LocalDateTime date) {
+        transaction.setDate(date);
+        transaction.setType(transaction.getClass().getSimpleName());
+        transaction.setApprovalCode("10586d5d-4bd0-4ee9-ad49-718ce029048e");
+        return transaction;
+    }
+}